@@ -1,11 +1,48 @@
 package algorithms;
 
+import metrics.MetricsRegistry;
 import metrics.PerformanceTracker;
 
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 public class SelectionSort {
 
+    // Typical per-core L2 size, used to pick the blocked sort's buffer size
+    private static final int L2_CACHE_BYTES = 256 * 1024;
+
+    // Cardinality sampling and counting sort limits for sortAdaptive
+    private static final int CARDINALITY_SAMPLE_SIZE = 256;
+    private static final int LOW_CARDINALITY_THRESHOLD = 32;
+    private static final int COUNTING_SORT_MAX_RANGE = 1 << 16;
+    private static final int COUNTING_SORT_MIN_RANGE_LIMIT = 1024;
+
+    // Comparisons to observe before trusting the time-per-comparison estimate
+    private static final long BUDGET_PROBE_COMPARISONS = 1 << 16;
+
+    // Heap sort steps between interrupt checks and progress updates in the budget fallback
+    private static final int HEAP_PROGRESS_INTERVAL = 1024;
+
+    // Cost of a heap sort comparison relative to a selection scan comparison.
+    // Measured at 7-12x (random access, tracked swaps); rounded up so the
+    // budgeted sort switches early rather than late
+    private static final int HEAP_COST_FACTOR = 10;
+
     private PerformanceTracker tracker;
 
+    /**
+     * Result of {@link #sortWithBudget(int[], long, long)}.
+     */
+    public enum BudgetOutcome {
+        /** Sorted entirely by selection sort within the budget. */
+        COMPLETED,
+        /** Switched to heap sort over the unsorted suffix to respect the budget. */
+        FALLBACK,
+        /** Stopped because the thread was interrupted; only the reported prefix is sorted. */
+        CANCELLED
+    }
+
     public SelectionSort() {
         this.tracker = new PerformanceTracker();
     }
@@ -28,11 +65,22 @@ public class SelectionSort {
         tracker.reset();
         tracker.startTimer();
 
+        selectionKernel(arr);
+
+        finish("Standard", arr.length);
+    }
+
+    /**
+     * Core of the standard sort, without resetting or reporting the tracker,
+     * so other entry points can reuse it under their own metrics.
+     *
+     * @param arr the array to sort
+     */
+    private void selectionKernel(int[] arr) {
         int n = arr.length;
 
         // Handle edge cases
         if (n <= 1) {
-            tracker.stopTimer();
             return;
         }
 
@@ -48,6 +96,7 @@ public class SelectionSort {
                     minIdx = j;
                 }
             }
+            tracker.incrementArrayAccesses(n - i);
 
             // Optimization: Only swap if needed
             if (minIdx != i) {
@@ -57,12 +106,20 @@ public class SelectionSort {
 
             // Early termination: If no swaps and remaining elements are sorted
             if (!swapOccurred && isSortedFrom(arr, i)) {
-                tracker.stopTimer();
                 return;
             }
         }
+    }
 
+    /**
+     * Stops the timer and publishes the finished sort to the metrics registry.
+     *
+     * @param algorithm algorithm name reported to the registry
+     * @param n input size
+     */
+    private void finish(String algorithm, int n) {
         tracker.stopTimer();
+        MetricsRegistry.getInstance().record(algorithm, n, tracker);
     }
 
     /**
@@ -98,6 +155,330 @@ public class SelectionSort {
         arr[j] = temp;
     }
 
+    /**
+     * Sorts an array of longs using optimized selection sort.
+     *
+     * @param arr the array to sort
+     * @throws IllegalArgumentException if array is null
+     */
+    public void sort(long[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = arr.length;
+        if (n <= 1) {
+            finish("StandardLong", n);
+            return;
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+
+            for (int j = i + 1; j < n; j++) {
+                tracker.incrementComparisons();
+                if (arr[j] < arr[minIdx]) {
+                    minIdx = j;
+                }
+            }
+            tracker.incrementArrayAccesses(n - i);
+
+            if (minIdx != i) {
+                swap(arr, i, minIdx);
+            } else if (isSortedFrom(arr, i)) {
+                finish("StandardLong", n);
+                return;
+            }
+        }
+
+        finish("StandardLong", n);
+    }
+
+    /**
+     * Sorts an array of doubles using optimized selection sort.
+     * Uses the same total order as {@link Double#compare}: -0.0 is placed
+     * before 0.0 and NaN values are placed after positive infinity.
+     *
+     * @param arr the array to sort
+     * @throws IllegalArgumentException if array is null
+     */
+    public void sort(double[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = arr.length;
+        if (n <= 1) {
+            finish("StandardDouble", n);
+            return;
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+
+            for (int j = i + 1; j < n; j++) {
+                tracker.incrementComparisons();
+                if (Double.compare(arr[j], arr[minIdx]) < 0) {
+                    minIdx = j;
+                }
+            }
+            tracker.incrementArrayAccesses(n - i);
+
+            if (minIdx != i) {
+                swap(arr, i, minIdx);
+            } else if (isSortedFrom(arr, i)) {
+                finish("StandardDouble", n);
+                return;
+            }
+        }
+
+        finish("StandardDouble", n);
+    }
+
+    /**
+     * Sorts an array of objects using selection sort and the given comparator.
+     * Performs at most n - 1 swaps, which makes it a good fit for records
+     * that are expensive to move. Every comparator call is recorded in the
+     * tracker.
+     *
+     * @param arr the array to sort
+     * @param comparator the ordering to sort by
+     * @throws IllegalArgumentException if array or comparator is null
+     */
+    public <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = arr.length;
+        if (n <= 1) {
+            finish("Comparator", n);
+            return;
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+
+            for (int j = i + 1; j < n; j++) {
+                if (compare(comparator, arr[j], arr[minIdx]) < 0) {
+                    minIdx = j;
+                }
+            }
+            tracker.incrementArrayAccesses(n - i);
+
+            if (minIdx != i) {
+                swap(arr, i, minIdx);
+            } else if (isSortedFrom(arr, i, comparator)) {
+                finish("Comparator", n);
+                return;
+            }
+        }
+
+        finish("Comparator", n);
+    }
+
+    /**
+     * Sorts an array of objects by an int key.
+     * Each key is extracted exactly once into a primitive array
+     * (decorate-sort-undecorate), so the quadratic scan compares plain ints
+     * and the objects are only touched when they are swapped.
+     *
+     * @param arr the array to sort
+     * @param keyExtractor extracts the sort key from an element
+     * @throws IllegalArgumentException if array or key extractor is null
+     */
+    public <T> void sortByIntKey(T[] arr, ToIntFunction<? super T> keyExtractor) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = arr.length;
+        if (n <= 1) {
+            finish("IntKey", n);
+            return;
+        }
+
+        // Decorate: extract every key once
+        int[] keys = new int[n];
+        tracker.incrementMemoryAllocations();
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsInt(arr[i]);
+        }
+        tracker.incrementArrayAccesses(2L * n);
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+
+            for (int j = i + 1; j < n; j++) {
+                tracker.incrementComparisons();
+                if (keys[j] < keys[minIdx]) {
+                    minIdx = j;
+                }
+            }
+            tracker.incrementArrayAccesses(n - i);
+
+            // Keys and elements move together, so no undecorate step is needed
+            if (minIdx != i) {
+                swap(keys, i, minIdx);
+                swapElements(arr, i, minIdx);
+            } else if (isSortedFrom(keys, i)) {
+                finish("IntKey", n);
+                return;
+            }
+        }
+
+        finish("IntKey", n);
+    }
+
+    /**
+     * Sorts an array of objects by a long key.
+     * Works like {@link #sortByIntKey(Object[], ToIntFunction)} with keys
+     * cached in a {@code long[]}.
+     *
+     * @param arr the array to sort
+     * @param keyExtractor extracts the sort key from an element
+     * @throws IllegalArgumentException if array or key extractor is null
+     */
+    public <T> void sortByLongKey(T[] arr, ToLongFunction<? super T> keyExtractor) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = arr.length;
+        if (n <= 1) {
+            finish("LongKey", n);
+            return;
+        }
+
+        // Decorate: extract every key once
+        long[] keys = new long[n];
+        tracker.incrementMemoryAllocations();
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsLong(arr[i]);
+        }
+        tracker.incrementArrayAccesses(2L * n);
+
+        for (int i = 0; i < n - 1; i++) {
+            int minIdx = i;
+
+            for (int j = i + 1; j < n; j++) {
+                tracker.incrementComparisons();
+                if (keys[j] < keys[minIdx]) {
+                    minIdx = j;
+                }
+            }
+            tracker.incrementArrayAccesses(n - i);
+
+            // Keys and elements move together, so no undecorate step is needed
+            if (minIdx != i) {
+                swap(keys, i, minIdx);
+                swapElements(arr, i, minIdx);
+            } else if (isSortedFrom(keys, i)) {
+                finish("LongKey", n);
+                return;
+            }
+        }
+
+        finish("LongKey", n);
+    }
+
+    private boolean isSortedFrom(long[] arr, int start) {
+        for (int i = start; i < arr.length - 1; i++) {
+            tracker.incrementComparisons();
+            if (arr[i] > arr[i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSortedFrom(double[] arr, int start) {
+        for (int i = start; i < arr.length - 1; i++) {
+            tracker.incrementComparisons();
+            if (Double.compare(arr[i], arr[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private <T> boolean isSortedFrom(T[] arr, int start, Comparator<? super T> comparator) {
+        for (int i = start; i < arr.length - 1; i++) {
+            if (compare(comparator, arr[i], arr[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invokes the comparator and records the call.
+     */
+    private <T> int compare(Comparator<? super T> comparator, T a, T b) {
+        tracker.incrementComparisons();
+        tracker.incrementComparatorInvocations();
+        return comparator.compare(a, b);
+    }
+
+    private void swap(long[] arr, int i, int j) {
+        tracker.incrementSwaps();
+        tracker.incrementArrayAccesses(3);
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    private void swap(double[] arr, int i, int j) {
+        tracker.incrementSwaps();
+        tracker.incrementArrayAccesses(3);
+        double temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    private <T> void swap(T[] arr, int i, int j) {
+        tracker.incrementSwaps();
+        tracker.incrementArrayAccesses(3);
+        T temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    /**
+     * Moves elements alongside their cached keys. The swap itself is
+     * already counted by the key swap, only the accesses are added here.
+     */
+    private <T> void swapElements(T[] arr, int i, int j) {
+        tracker.incrementArrayAccesses(3);
+        T temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
     /**
      * Alternative implementation: Bidirectional selection sort.
      * Finds both min and max in each pass, sorting from both ends.
@@ -115,7 +496,7 @@ public class SelectionSort {
 
         int n = arr.length;
         if (n <= 1) {
-            tracker.stopTimer();
+            finish("Bidirectional", n);
             return;
         }
 
@@ -136,6 +517,7 @@ public class SelectionSort {
                     maxIdx = i;
                 }
             }
+            tracker.incrementArrayAccesses(right - left + 1);
 
             // Handle special case: max is at left position
             if (maxIdx == left) {
@@ -156,7 +538,484 @@ public class SelectionSort {
             right--;
         }
 
-        tracker.stopTimer();
+        finish("Bidirectional", n);
+    }
+
+    /**
+     * Blocked selection sort with a buffer size tuned to the input size.
+     *
+     * @param arr the array to sort
+     * @see #sortBlocked(int[], int)
+     */
+    public void sortBlocked(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        sortBlocked(arr, blockSizeFor(arr.length));
+    }
+
+    /**
+     * Blocked selection sort: each scan of the unsorted suffix collects the
+     * blockSize smallest elements into a small sorted buffer and places all
+     * of them at once. This cuts the number of passes over memory by a factor
+     * of blockSize while still performing at most n swaps.
+     *
+     * @param arr the array to sort
+     * @param blockSize number of minima extracted per scan
+     * @throws IllegalArgumentException if array is null or blockSize is not positive
+     */
+    public void sortBlocked(int[] arr, int blockSize) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = arr.length;
+        if (n <= 1) {
+            finish("Blocked", n);
+            return;
+        }
+
+        int bufferSize = Math.min(blockSize, n);
+        int[] candidateValues = new int[bufferSize];
+        int[] candidateIndices = new int[bufferSize];
+        tracker.incrementMemoryAllocations(2);
+
+        int i = 0;
+        while (i < n - 1) {
+            int m = Math.min(bufferSize, n - i);
+            int count = 0;
+
+            // Single scan of the suffix, keeping the m smallest in ascending order
+            for (int j = i; j < n; j++) {
+                int value = arr[j];
+                if (count == m) {
+                    tracker.incrementComparisons();
+                    if (value >= candidateValues[m - 1]) {
+                        continue;
+                    }
+                    count--; // Evict the largest candidate
+                }
+
+                int k = count;
+                while (k > 0) {
+                    tracker.incrementComparisons();
+                    if (candidateValues[k - 1] <= value) {
+                        break;
+                    }
+                    candidateValues[k] = candidateValues[k - 1];
+                    candidateIndices[k] = candidateIndices[k - 1];
+                    k--;
+                }
+                candidateValues[k] = value;
+                candidateIndices[k] = j;
+                count++;
+            }
+            tracker.incrementArrayAccesses(n - i);
+
+            // Place all m minima; at most one swap per placed element
+            for (int c = 0; c < m; c++) {
+                int target = i + c;
+                int source = candidateIndices[c];
+                if (source != target) {
+                    swap(arr, target, source);
+
+                    // The element displaced from target may be a later candidate
+                    for (int d = c + 1; d < m; d++) {
+                        if (candidateIndices[d] == target) {
+                            candidateIndices[d] = source;
+                            break;
+                        }
+                    }
+                }
+            }
+
+            i += m;
+        }
+
+        finish("Blocked", n);
+    }
+
+    /**
+     * Picks the blocked sort's buffer size. Larger buffers cut the number of
+     * scans but make each accepted candidate's insertion cost more, so the
+     * best size grows with n (roughly sqrt(n) / 2). The thresholds come from
+     * the block size sweep in BenchmarkRunner on random data: 32-64 was best
+     * up to 16K elements, 128 around 64K (256 KB, a typical L2) and 128-256
+     * beyond. The largest buffer (2 KB of values and indices) still fits in L1.
+     *
+     * @param n the input size
+     * @return number of minima to extract per scan
+     */
+    public static int blockSizeFor(int n) {
+        long bytes = (long) n * Integer.BYTES;
+        if (bytes <= 16 * 1024) {
+            return 32;
+        }
+        if (bytes <= 64 * 1024) {
+            return 64;
+        }
+        if (bytes <= L2_CACHE_BYTES) {
+            return 128;
+        }
+        return 256;
+    }
+
+    /**
+     * Duplicate-aware selection sort. Each pass finds the minimum value and
+     * gathers all of its occurrences to the front of the unsorted part, so
+     * the number of passes equals the number of distinct values. Only copies
+     * of the minimum are moved, so at most n swaps are performed.
+     *
+     * @param arr the array to sort
+     * @throws IllegalArgumentException if array is null
+     */
+    public void sortDuplicateAware(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        gatherMinimaSort(arr);
+
+        finish("DuplicateAware", arr.length);
+    }
+
+    /**
+     * Sorts an array choosing a strategy from a sampled cardinality estimate.
+     * High-cardinality input uses the standard selection sort. Low-cardinality input
+     * uses counting sort when the value range is small both absolutely and
+     * relative to the input size, and
+     * {@link #sortDuplicateAware(int[])} otherwise.
+     *
+     * @param arr the array to sort
+     * @throws IllegalArgumentException if array is null
+     */
+    public void sortAdaptive(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        if (estimateDistinct(arr) > LOW_CARDINALITY_THRESHOLD) {
+            selectionKernel(arr);
+            finish("Adaptive", arr.length);
+            return;
+        }
+
+        int n = arr.length;
+        if (n <= 1) {
+            finish("Adaptive", n);
+            return;
+        }
+
+        int min = arr[0];
+        int max = arr[0];
+        for (int i = 1; i < n; i++) {
+            tracker.incrementComparisons();
+            if (arr[i] < min) {
+                min = arr[i];
+            } else {
+                tracker.incrementComparisons();
+                if (arr[i] > max) {
+                    max = arr[i];
+                }
+            }
+        }
+        tracker.incrementArrayAccesses(n);
+
+        // The count array must stay small in absolute terms and relative to n
+        long range = (long) max - min + 1;
+        if (range <= COUNTING_SORT_MAX_RANGE && range <= Math.max(n, COUNTING_SORT_MIN_RANGE_LIMIT)) {
+            countingSort(arr, min, max);
+        } else {
+            gatherMinimaSort(arr);
+        }
+
+        finish("Adaptive", n);
+    }
+
+    /**
+     * Core of the duplicate-aware sort. One scan finds the first index of the
+     * minimum and counts its copies; a second scan, starting at that index
+     * and stopping once every copy is gathered, moves the copies to
+     * [i, i + copies). Elements before the first copy are all larger, so
+     * nothing but a copy of the minimum is ever swapped into place.
+     */
+    private void gatherMinimaSort(int[] arr) {
+        int n = arr.length;
+        int i = 0;
+
+        while (i < n - 1) {
+            int minIdx = i;
+            int copies = 1;
+
+            for (int j = i + 1; j < n; j++) {
+                tracker.incrementComparisons();
+                if (arr[j] < arr[minIdx]) {
+                    minIdx = j;
+                    copies = 1;
+                } else {
+                    tracker.incrementComparisons();
+                    if (arr[j] == arr[minIdx]) {
+                        copies++;
+                    }
+                }
+            }
+            tracker.incrementArrayAccesses(n - i);
+
+            int min = arr[minIdx];
+            int end = i;
+            int j = minIdx;
+            while (end < i + copies) {
+                tracker.incrementComparisons();
+                if (arr[j] == min) {
+                    if (j != end) {
+                        swap(arr, end, j);
+                    }
+                    end++;
+                }
+                j++;
+            }
+            tracker.incrementArrayAccesses(j - minIdx);
+
+            i = end;
+        }
+    }
+
+    /**
+     * Counting sort for values within [min, max].
+     */
+    private void countingSort(int[] arr, int min, int max) {
+        int[] counts = new int[max - min + 1];
+        tracker.incrementMemoryAllocations();
+
+        for (int value : arr) {
+            counts[value - min]++;
+        }
+
+        int k = 0;
+        for (int v = 0; v < counts.length; v++) {
+            for (int c = counts[v]; c > 0; c--) {
+                arr[k++] = v + min;
+            }
+        }
+        tracker.incrementArrayAccesses(2L * arr.length);
+    }
+
+    /**
+     * Estimates the number of distinct values from an evenly strided sample.
+     * Stops counting once the low-cardinality threshold is exceeded, so the
+     * cost is bounded by sample size times threshold comparisons. Exact when
+     * the array is no larger than the sample.
+     */
+    private int estimateDistinct(int[] arr) {
+        int sampleSize = Math.min(arr.length, CARDINALITY_SAMPLE_SIZE);
+        if (sampleSize == 0) {
+            return 0;
+        }
+
+        int[] seen = new int[LOW_CARDINALITY_THRESHOLD + 1];
+        tracker.incrementMemoryAllocations();
+
+        int distinct = 0;
+        double stride = (double) arr.length / sampleSize;
+        for (int i = 0; i < sampleSize && distinct <= LOW_CARDINALITY_THRESHOLD; i++) {
+            int value = arr[(int) (i * stride)];
+            tracker.incrementArrayAccesses();
+            int k = 0;
+            while (k < distinct) {
+                tracker.incrementComparisons();
+                if (seen[k] == value) {
+                    break;
+                }
+                k++;
+            }
+            if (k == distinct) {
+                seen[distinct++] = value;
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Selection sort bounded by a time and comparison budget.
+     * Before each pass the cost of finishing is projected from the comparisons
+     * and time spent so far, reserving room for a heap sort (O(n log n)) of
+     * the unsorted suffix. As soon as another selection pass would no longer
+     * leave that room, the suffix is finished with heap sort and the sorted
+     * prefix is left untouched. Both budgets are soft: the fallback is an
+     * estimate, and if it alone exceeds the budget the sort still completes.
+     * Progress is published to the tracker once per pass, and periodically
+     * during the fallback, and can be read from another thread. Interrupting
+     * the sorting thread cancels the sort in either phase; the interrupt
+     * status is preserved and the reported sorted prefix stays sorted.
+     *
+     * @param arr the array to sort
+     * @param maxNanos time budget in nanoseconds, Long.MAX_VALUE for none
+     * @param maxComparisons soft comparison budget, Long.MAX_VALUE for none
+     * @return how the sort finished
+     * @throws IllegalArgumentException if array is null or a budget is negative
+     */
+    public BudgetOutcome sortWithBudget(int[] arr, long maxNanos, long maxComparisons) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (maxNanos < 0 || maxComparisons < 0) {
+            throw new IllegalArgumentException("Budget cannot be negative");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = arr.length;
+        tracker.beginProgress(n);
+        if (n <= 1) {
+            tracker.updateProgress(0, n);
+            finish("Budgeted", n);
+            return BudgetOutcome.COMPLETED;
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                finish("Budgeted", n);
+                return BudgetOutcome.CANCELLED;
+            }
+
+            if (exceedsBudget(n - i, maxNanos, maxComparisons)) {
+                boolean completed = heapSort(arr, i, n);
+                finish("Budgeted", n);
+                return completed ? BudgetOutcome.FALLBACK : BudgetOutcome.CANCELLED;
+            }
+
+            int minIdx = i;
+            for (int j = i + 1; j < n; j++) {
+                tracker.incrementComparisons();
+                if (arr[j] < arr[minIdx]) {
+                    minIdx = j;
+                }
+            }
+            tracker.incrementArrayAccesses(n - i);
+
+            if (minIdx != i) {
+                swap(arr, i, minIdx);
+                tracker.updateProgress(i + 1, i + 1);
+            } else if (isSortedFrom(arr, i)) {
+                tracker.updateProgress(i + 1, n);
+                break;
+            } else {
+                tracker.updateProgress(i + 1, i + 1);
+            }
+        }
+
+        tracker.updateProgress(tracker.getPassesCompleted(), n);
+        finish("Budgeted", n);
+        return BudgetOutcome.COMPLETED;
+    }
+
+    /**
+     * Decides whether to switch to the fallback before the next pass.
+     * Selection may continue only if, after this pass, the cheaper of
+     * finishing by selection or falling back still fits both budgets. Time
+     * is projected from the observed time per selection comparison; heap
+     * sort comparisons are priced HEAP_COST_FACTOR times higher. Running out
+     * of time is a hard cutoff.
+     */
+    private boolean exceedsBudget(int remaining, long maxNanos, long maxComparisons) {
+        long remainingSelection = (long) remaining * (remaining - 1) / 2;
+        long nextPass = remaining - 1;
+        long fallback = estimateHeapSortComparisons(remaining - 1);
+
+        long comparisons = tracker.getComparisons();
+        if (Math.min(remainingSelection, nextPass + fallback) > maxComparisons - comparisons) {
+            return true;
+        }
+
+        long elapsed = tracker.getElapsedTimeNanos();
+        if (elapsed >= maxNanos) {
+            return true;
+        }
+        if (comparisons < BUDGET_PROBE_COMPARISONS) {
+            return false;
+        }
+        double nanosPerComparison = (double) elapsed / comparisons;
+        double selectionNanos = remainingSelection * nanosPerComparison;
+        double fallbackNanos = (nextPass + (double) fallback * HEAP_COST_FACTOR) * nanosPerComparison;
+        return elapsed + Math.min(selectionNanos, fallbackNanos) > maxNanos;
+    }
+
+    /**
+     * Upper estimate of heap sort comparisons: two per level per element.
+     */
+    private static long estimateHeapSortComparisons(int m) {
+        if (m <= 1) {
+            return 0;
+        }
+        int levels = 32 - Integer.numberOfLeadingZeros(m);
+        return 2L * m * levels;
+    }
+
+    /**
+     * Heap sort over [from, to), used as the budget fallback. Checks for
+     * interruption and publishes progress every HEAP_PROGRESS_INTERVAL steps.
+     *
+     * @return false if cancelled by interruption
+     */
+    private boolean heapSort(int[] arr, int from, int to) {
+        int size = to - from;
+        int steps = 0;
+
+        for (int k = size / 2 - 1; k >= 0; k--) {
+            siftDown(arr, from, k, size);
+            if (++steps % HEAP_PROGRESS_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+
+        // Each extraction places the largest remaining element at the end
+        for (int end = size - 1; end > 0; end--) {
+            swap(arr, from, from + end);
+            siftDown(arr, from, 0, end);
+            if (++steps % HEAP_PROGRESS_INTERVAL == 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+                tracker.updateProgress(from, from, from + (size - end));
+            }
+        }
+
+        tracker.updateProgress(from, to);
+        return true;
+    }
+
+    private void siftDown(int[] arr, int base, int k, int size) {
+        while (true) {
+            int child = 2 * k + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size) {
+                tracker.incrementComparisons();
+                if (arr[base + child + 1] > arr[base + child]) {
+                    child++;
+                }
+            }
+            tracker.incrementComparisons();
+            if (arr[base + k] >= arr[base + child]) {
+                return;
+            }
+            swap(arr, base + k, base + child);
+            k = child;
+        }
     }
 
     /**
@@ -186,4 +1045,63 @@ public class SelectionSort {
         }
         return true;
     }
+
+    /**
+     * Validates that an array of longs is sorted in ascending order.
+     *
+     * @param arr the array to validate
+     * @return true if sorted
+     */
+    public static boolean isSorted(long[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return true;
+        }
+
+        for (int i = 0; i < arr.length - 1; i++) {
+            if (arr[i] > arr[i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates that an array of doubles is sorted according to
+     * {@link Double#compare}.
+     *
+     * @param arr the array to validate
+     * @return true if sorted
+     */
+    public static boolean isSorted(double[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return true;
+        }
+
+        for (int i = 0; i < arr.length - 1; i++) {
+            if (Double.compare(arr[i], arr[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates that an array of objects is sorted by the given comparator.
+     *
+     * @param arr the array to validate
+     * @param comparator the expected ordering
+     * @return true if sorted
+     */
+    public static <T> boolean isSorted(T[] arr, Comparator<? super T> comparator) {
+        if (arr == null || arr.length <= 1) {
+            return true;
+        }
+
+        for (int i = 0; i < arr.length - 1; i++) {
+            if (comparator.compare(arr[i], arr[i + 1]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,12 +1,15 @@
 package cli;
 
 import algorithms.SelectionSort;
+import metrics.BenchmarkStatus;
+import metrics.MetricsRegistry;
 import metrics.PerformanceTracker;
 
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
 
 /**
@@ -19,12 +22,16 @@ public class BenchmarkRunner {
     private static final int WARMUP_RUNS = 3;
     private static final int MEASUREMENT_RUNS = 5;
     private static final Random RANDOM = new Random(42);
+    private static final BenchmarkStatus STATUS = new BenchmarkStatus();
 
     public static void main(String[] args) {
         System.out.println("=== SelectionSort Benchmark Suite ===\n");
 
         String outputFile = args.length > 0 ? args[0] : "benchmark_results.csv";
 
+        // Expose the in-progress configuration over JMX (metrics:type=Benchmark)
+        MetricsRegistry.getInstance().registerBenchmark(STATUS);
+
         try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
             writer.println("DataType," + PerformanceTracker.getCSVHeader());
 
@@ -37,6 +44,12 @@ public class BenchmarkRunner {
             runBenchmark("NearlySorted", writer, BenchmarkRunner::generateNearlySortedArray);
             runBenchmark("FewUnique", writer, BenchmarkRunner::generateFewUniqueArray);
 
+            // Duplicate-aware and adaptive (counting sort) paths on low-cardinality data
+            runBenchmark("FewUnique-DuplicateAware", writer, BenchmarkRunner::generateFewUniqueArray,
+                    SelectionSort::sortDuplicateAware);
+            runBenchmark("FewUnique-Adaptive", writer, BenchmarkRunner::generateFewUniqueArray,
+                    SelectionSort::sortAdaptive);
+
             System.out.println("\nBenchmark complete! Results saved to: " + outputFile);
 
         } catch (IOException e) {
@@ -46,6 +59,20 @@ public class BenchmarkRunner {
 
         // Run comparison between standard and bidirectional
         runComparisonBenchmark();
+
+        // Run comparison between primitive, comparator and key-extractor sorts
+        runObjectBenchmark();
+
+        // Run comparison of blocked sort at sizes crossing cache boundaries
+        runBlockedBenchmark();
+
+        // Sweep blocked sort buffer sizes to check the default tuning
+        runBlockSizeSweep();
+
+        // Run budgeted sorts to measure overshoot past the deadline
+        runBudgetBenchmark();
+
+        STATUS.update("Done", "", 0, 0, 0);
     }
 
     /**
@@ -53,6 +80,14 @@ public class BenchmarkRunner {
      */
     private static void runBenchmark(String dataType, PrintWriter writer,
                                      ArrayGenerator generator) {
+        runBenchmark(dataType, writer, generator, SelectionSort::sort);
+    }
+
+    /**
+     * Runs benchmark for a specific data distribution and sort variant.
+     */
+    private static void runBenchmark(String dataType, PrintWriter writer,
+                                     ArrayGenerator generator, SortVariant variant) {
         System.out.println("Testing " + dataType + " data:");
 
         for (int size : INPUT_SIZES) {
@@ -60,21 +95,24 @@ public class BenchmarkRunner {
 
             // Warmup
             for (int i = 0; i < WARMUP_RUNS; i++) {
+                STATUS.update("Warmup", dataType, size, i + 1, WARMUP_RUNS);
                 int[] arr = generator.generate(size);
                 SelectionSort sorter = new SelectionSort();
-                sorter.sort(arr);
+                variant.sort(sorter, arr);
             }
 
             // Measurement runs
             long totalComparisons = 0;
             long totalSwaps = 0;
             long totalArrayAccesses = 0;
+            long totalMemoryAllocations = 0;
             long totalTime = 0;
 
             for (int i = 0; i < MEASUREMENT_RUNS; i++) {
+                STATUS.update("Measurement", dataType, size, i + 1, MEASUREMENT_RUNS);
                 int[] arr = generator.generate(size);
                 SelectionSort sorter = new SelectionSort();
-                sorter.sort(arr);
+                variant.sort(sorter, arr);
 
                 if (!SelectionSort.isSorted(arr)) {
                     System.err.println("ERROR: Array not sorted correctly!");
@@ -85,6 +123,7 @@ public class BenchmarkRunner {
                 totalComparisons += tracker.getComparisons();
                 totalSwaps += tracker.getSwaps();
                 totalArrayAccesses += tracker.getArrayAccesses();
+                totalMemoryAllocations += tracker.getMemoryAllocations();
                 totalTime += tracker.getElapsedTimeNanos();
             }
 
@@ -92,18 +131,21 @@ public class BenchmarkRunner {
             avgTracker.incrementComparisons(totalComparisons / MEASUREMENT_RUNS);
             avgTracker.incrementSwaps(totalSwaps / MEASUREMENT_RUNS);
             avgTracker.incrementArrayAccesses(totalArrayAccesses / MEASUREMENT_RUNS);
+            avgTracker.incrementMemoryAllocations(totalMemoryAllocations / MEASUREMENT_RUNS);
 
             double avgTimeMs = (totalTime / MEASUREMENT_RUNS) / 1_000_000.0;
 
-            String csvLine = String.format("%s,%d,%d,%d,%d,0,%.3f",
+            String csvLine = String.format("%s,%d,%d,%d,%d,%d,%.3f",
                     dataType, size,
                     avgTracker.getComparisons(),
                     avgTracker.getSwaps(),
                     avgTracker.getArrayAccesses(),
+                    avgTracker.getMemoryAllocations(),
                     avgTimeMs
             );
 
             writer.println(csvLine);
+            STATUS.completeConfiguration();
 
             System.out.printf("  n=%6d: %,10d comparisons, %,8d swaps, %.3f ms%n",
                     size, avgTracker.getComparisons(), avgTracker.getSwaps(), avgTimeMs);
@@ -121,6 +163,7 @@ public class BenchmarkRunner {
         int[] testSizes = {1000, 5000, 10000};
 
         for (int size : testSizes) {
+            STATUS.update("Comparison", "Bidirectional", size, 1, 1);
             int[] arr1 = generateRandomArray(size);
             int[] arr2 = Arrays.copyOf(arr1, arr1.length);
 
@@ -142,6 +185,195 @@ public class BenchmarkRunner {
         }
     }
 
+    /**
+     * Compares per-element cost of the int[] kernel against the object
+     * entry points (comparator and cached int key) on the same data.
+     */
+    private static void runObjectBenchmark() {
+        System.out.println("=== Primitive vs Object Sorting (per-element cost) ===\n");
+
+        int[] testSizes = {1000, 5000, 10000};
+        Comparator<Integer> comparator = Comparator.naturalOrder();
+
+        for (int size : testSizes) {
+            STATUS.update("Comparison", "Object", size, 1, 1);
+            int[] primitive = generateRandomArray(size);
+            Integer[] boxed1 = Arrays.stream(primitive).boxed().toArray(Integer[]::new);
+            Integer[] boxed2 = Arrays.copyOf(boxed1, boxed1.length);
+
+            SelectionSort sorter1 = new SelectionSort();
+            SelectionSort sorter2 = new SelectionSort();
+            SelectionSort sorter3 = new SelectionSort();
+
+            sorter1.sort(primitive);
+            sorter2.sort(boxed1, comparator);
+            sorter3.sortByIntKey(boxed2, Integer::intValue);
+
+            if (!SelectionSort.isSorted(boxed1, comparator)
+                    || !SelectionSort.isSorted(boxed2, comparator)) {
+                System.err.println("ERROR: Array not sorted correctly!");
+                System.exit(1);
+            }
+
+            PerformanceTracker t1 = sorter1.getTracker();
+            PerformanceTracker t2 = sorter2.getTracker();
+            PerformanceTracker t3 = sorter3.getTracker();
+
+            System.out.printf("n=%d:%n", size);
+            System.out.printf("  int[] kernel: %,d comparisons, %.1f ns/element%n",
+                    t1.getComparisons(), (double) t1.getElapsedTimeNanos() / size);
+            System.out.printf("  Comparator:   %,d comparator calls, %.1f ns/element%n",
+                    t2.getComparatorInvocations(), (double) t2.getElapsedTimeNanos() / size);
+            System.out.printf("  Int key:      %,d comparisons, %.1f ns/element%n",
+                    t3.getComparisons(), (double) t3.getElapsedTimeNanos() / size);
+            System.out.println();
+        }
+    }
+
+    /**
+     * Compares blocked selection sort against standard and bidirectional
+     * at sizes below and above a 256 KB L2 cache. Crossing L3 would need
+     * millions of elements, which is out of reach for a quadratic sort.
+     */
+    private static void runBlockedBenchmark() {
+        System.out.println("=== Standard vs Bidirectional vs Blocked (cache boundaries) ===\n");
+
+        int[] testSizes = {16_384, 65_536, 131_072};
+
+        for (int size : testSizes) {
+            STATUS.update("Comparison", "Blocked", size, 1, 1);
+            int[] arr1 = generateRandomArray(size);
+            int[] arr2 = Arrays.copyOf(arr1, arr1.length);
+            int[] arr3 = Arrays.copyOf(arr1, arr1.length);
+
+            SelectionSort sorter1 = new SelectionSort();
+            SelectionSort sorter2 = new SelectionSort();
+            SelectionSort sorter3 = new SelectionSort();
+
+            sorter1.sort(arr1);
+            sorter2.sortBidirectional(arr2);
+            sorter3.sortBlocked(arr3);
+
+            if (!SelectionSort.isSorted(arr3)) {
+                System.err.println("ERROR: Array not sorted correctly!");
+                System.exit(1);
+            }
+
+            PerformanceTracker t1 = sorter1.getTracker();
+            PerformanceTracker t2 = sorter2.getTracker();
+            PerformanceTracker t3 = sorter3.getTracker();
+
+            System.out.printf("n=%d (%d KB):%n", size, size * Integer.BYTES / 1024);
+            System.out.printf("  Standard:      %,d comparisons, %,d array accesses, %.3f ms%n",
+                    t1.getComparisons(), t1.getArrayAccesses(), t1.getElapsedTimeMillis());
+            System.out.printf("  Bidirectional: %,d comparisons, %,d array accesses, %.3f ms%n",
+                    t2.getComparisons(), t2.getArrayAccesses(), t2.getElapsedTimeMillis());
+            System.out.printf("  Blocked:       %,d comparisons, %,d array accesses, %.3f ms%n",
+                    t3.getComparisons(), t3.getArrayAccesses(), t3.getElapsedTimeMillis());
+            System.out.println();
+        }
+    }
+
+    /**
+     * Runs blocked sort with a range of buffer sizes at each input size.
+     * Used to set the thresholds in SelectionSort.blockSizeFor; the default
+     * for each size is marked with '*'.
+     */
+    private static void runBlockSizeSweep() {
+        System.out.println("=== Blocked Sort Buffer Size Sweep ===\n");
+
+        int[] testSizes = {4_096, 16_384, 65_536, 131_072};
+        int[] blockSizes = {16, 32, 64, 128, 256, 512};
+
+        // Warm up the blocked kernel so the first configurations are not interpreted
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            for (int blockSize : blockSizes) {
+                new SelectionSort().sortBlocked(generateRandomArray(4_096), blockSize);
+            }
+        }
+
+        for (int size : testSizes) {
+            int[] original = generateRandomArray(size);
+            int defaultBlockSize = SelectionSort.blockSizeFor(size);
+
+            System.out.printf("n=%d (%d KB):%n", size, size * Integer.BYTES / 1024);
+            for (int blockSize : blockSizes) {
+                STATUS.update("Sweep", "Blocked m=" + blockSize, size, 1, 1);
+                int[] arr = Arrays.copyOf(original, original.length);
+
+                SelectionSort sorter = new SelectionSort();
+                sorter.sortBlocked(arr, blockSize);
+
+                PerformanceTracker tracker = sorter.getTracker();
+                System.out.printf("  m=%4d%s %,d comparisons, %,d array accesses, %.3f ms%n",
+                        blockSize, blockSize == defaultBlockSize ? "*" : " ",
+                        tracker.getComparisons(), tracker.getArrayAccesses(), tracker.getElapsedTimeMillis());
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Runs the budgeted sort with a fixed time budget and reports the
+     * overshoot past the budget over several runs. The heap-only time is the
+     * cost of falling back immediately, which no switching rule can beat.
+     */
+    private static void runBudgetBenchmark() {
+        System.out.println("=== Budgeted Sort (25 ms budget) ===\n");
+
+        long budgetNanos = 25_000_000L;
+        int[] testSizes = {2000, 10000, 50000, 200000, 1000000};
+
+        for (int size : testSizes) {
+            STATUS.update("Warmup", "Budgeted", size, 1, WARMUP_RUNS);
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                new SelectionSort().sortWithBudget(generateRandomArray(size), budgetNanos, Long.MAX_VALUE);
+            }
+
+            long totalPasses = 0;
+            long totalTime = 0;
+            long maxOvershoot = 0;
+            long totalHeapOnlyTime = 0;
+            int fallbacks = 0;
+
+            for (int i = 0; i < MEASUREMENT_RUNS; i++) {
+                STATUS.update("Measurement", "Budgeted", size, i + 1, MEASUREMENT_RUNS);
+                int[] arr = generateRandomArray(size);
+                int[] heapOnly = Arrays.copyOf(arr, arr.length);
+
+                SelectionSort sorter = new SelectionSort();
+                SelectionSort.BudgetOutcome outcome = sorter.sortWithBudget(arr, budgetNanos, Long.MAX_VALUE);
+
+                // A zero comparison budget falls back before the first pass
+                SelectionSort heapSorter = new SelectionSort();
+                heapSorter.sortWithBudget(heapOnly, Long.MAX_VALUE, 0);
+
+                if (!SelectionSort.isSorted(arr) || !SelectionSort.isSorted(heapOnly)) {
+                    System.err.println("ERROR: Array not sorted correctly!");
+                    System.exit(1);
+                }
+
+                PerformanceTracker tracker = sorter.getTracker();
+                totalPasses += tracker.getPassesCompleted();
+                totalTime += tracker.getElapsedTimeNanos();
+                maxOvershoot = Math.max(maxOvershoot, tracker.getElapsedTimeNanos() - budgetNanos);
+                totalHeapOnlyTime += heapSorter.getTracker().getElapsedTimeNanos();
+                if (outcome == SelectionSort.BudgetOutcome.FALLBACK) {
+                    fallbacks++;
+                }
+            }
+
+            System.out.printf("n=%7d: %d/%d fell back, avg %,d passes, avg %.3f ms, "
+                            + "max overshoot %.3f ms, heap-only avg %.3f ms%n",
+                    size, fallbacks, MEASUREMENT_RUNS, totalPasses / MEASUREMENT_RUNS,
+                    totalTime / MEASUREMENT_RUNS / 1_000_000.0,
+                    Math.max(0, maxOvershoot) / 1_000_000.0,
+                    totalHeapOnlyTime / MEASUREMENT_RUNS / 1_000_000.0);
+        }
+
+        System.out.println();
+    }
+
     // Array generators for different data distributions
 
     private static int[] generateRandomArray(int size) {
@@ -195,4 +427,9 @@ public class BenchmarkRunner {
     interface ArrayGenerator {
         int[] generate(int size);
     }
+
+    @FunctionalInterface
+    interface SortVariant {
+        void sort(SelectionSort sorter, int[] arr);
+    }
 }
@@ -0,0 +1,182 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated metrics for one algorithm across all trackers.
+ * Recording adds to striped adders and reads, but does not write, the
+ * rolling windows' slot stamps except once per second when a slot rolls
+ * over, so concurrent sorts rarely contend; percentiles and rates are
+ * derived when read.
+ */
+public class AlgorithmMetrics implements AlgorithmMetricsMBean {
+
+    private static final int HISTOGRAM_BUCKETS = 64;
+
+    private final String algorithm;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder arrayAccesses = new LongAdder();
+    private final LongAdder timeNanos = new LongAdder();
+    private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] histogram = new LongAdder[HISTOGRAM_BUCKETS];
+    private final RollingWindow elementsWindow = new RollingWindow();
+    private final RollingWindow sortsWindow = new RollingWindow();
+
+    public AlgorithmMetrics(String algorithm) {
+        this.algorithm = algorithm;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Adds one finished sort to the aggregates.
+     *
+     * @param inputSize number of elements sorted
+     * @param tracker tracker of the finished sort
+     */
+    public void record(int inputSize, PerformanceTracker tracker) {
+        long nanos = tracker.getElapsedTimeNanos();
+
+        invocations.increment();
+        elements.add(inputSize);
+        comparisons.add(tracker.getComparisons());
+        swaps.add(tracker.getSwaps());
+        arrayAccesses.add(tracker.getArrayAccesses());
+        timeNanos.add(nanos);
+        maxTimeNanos.accumulate(nanos);
+        histogram[bucketOf(nanos)].increment();
+
+        long now = System.nanoTime();
+        elementsWindow.add(now, inputSize);
+        sortsWindow.add(now, 1);
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getTotalElements() {
+        return elements.sum();
+    }
+
+    @Override
+    public long getTotalComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getTotalSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public long getTotalArrayAccesses() {
+        return arrayAccesses.sum();
+    }
+
+    @Override
+    public double getTotalTimeMillis() {
+        return timeNanos.sum() / 1_000_000.0;
+    }
+
+    @Override
+    public double getMeanLatencyMillis() {
+        long count = invocations.sum();
+        if (count == 0) {
+            return 0.0;
+        }
+        return timeNanos.sum() / 1_000_000.0 / count;
+    }
+
+    @Override
+    public double getMaxLatencyMillis() {
+        return maxTimeNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public double getLatencyP50Millis() {
+        return percentileMillis(0.50);
+    }
+
+    @Override
+    public double getLatencyP99Millis() {
+        return percentileMillis(0.99);
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] counts = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            counts[i] = histogram[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public double getThroughputElementsPerSecond() {
+        return elementsWindow.ratePerSecond(System.nanoTime());
+    }
+
+    @Override
+    public double getThroughputSortsPerSecond() {
+        return sortsWindow.ratePerSecond(System.nanoTime());
+    }
+
+    @Override
+    public void reset() {
+        invocations.reset();
+        elements.reset();
+        comparisons.reset();
+        swaps.reset();
+        arrayAccesses.reset();
+        timeNanos.reset();
+        maxTimeNanos.reset();
+        for (LongAdder bucket : histogram) {
+            bucket.reset();
+        }
+        elementsWindow.reset();
+        sortsWindow.reset();
+    }
+
+    /**
+     * Upper bound of the histogram bucket containing the given percentile.
+     */
+    private double percentileMillis(double percentile) {
+        long[] counts = getLatencyHistogram();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+
+        long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(Math.pow(2, i + 1), maxTimeNanos.get()) / 1_000_000.0;
+            }
+        }
+        return getMaxLatencyMillis();
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos <= 0) {
+            return 0;
+        }
+        return 63 - Long.numberOfLeadingZeros(nanos);
+    }
+}
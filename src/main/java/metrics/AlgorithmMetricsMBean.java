@@ -0,0 +1,54 @@
+package metrics;
+
+/**
+ * JMX view of aggregated metrics for one sorting algorithm.
+ * All values are computed when the attribute is read.
+ */
+public interface AlgorithmMetricsMBean {
+
+    long getInvocations();
+
+    long getTotalElements();
+
+    long getTotalComparisons();
+
+    long getTotalSwaps();
+
+    long getTotalArrayAccesses();
+
+    double getTotalTimeMillis();
+
+    double getMeanLatencyMillis();
+
+    double getMaxLatencyMillis();
+
+    /**
+     * Approximate median latency, from the power-of-two histogram.
+     */
+    double getLatencyP50Millis();
+
+    /**
+     * Approximate 99th percentile latency, from the power-of-two histogram.
+     */
+    double getLatencyP99Millis();
+
+    /**
+     * Latency histogram; bucket i counts sorts that took [2^i, 2^(i+1)) ns.
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * Elements sorted per second over the rolling window.
+     */
+    double getThroughputElementsPerSecond();
+
+    /**
+     * Sort calls per second over the rolling window.
+     */
+    double getThroughputSortsPerSecond();
+
+    /**
+     * Clears all aggregated metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,69 @@
+package metrics;
+
+/**
+ * Live status of a benchmark sweep. Updated by the benchmark thread and
+ * read by JMX clients, so all fields are volatile.
+ */
+public class BenchmarkStatus implements BenchmarkStatusMBean {
+
+    private final long startTime = System.nanoTime();
+    private volatile String phase = "Starting";
+    private volatile String dataType = "";
+    private volatile int inputSize;
+    private volatile int run;
+    private volatile int totalRuns;
+    private volatile long completedConfigurations;
+
+    /**
+     * Records the configuration about to be measured.
+     */
+    public void update(String phase, String dataType, int inputSize, int run, int totalRuns) {
+        this.phase = phase;
+        this.dataType = dataType;
+        this.inputSize = inputSize;
+        this.run = run;
+        this.totalRuns = totalRuns;
+    }
+
+    /**
+     * Marks the current configuration as done.
+     */
+    public void completeConfiguration() {
+        completedConfigurations++;
+    }
+
+    @Override
+    public String getPhase() {
+        return phase;
+    }
+
+    @Override
+    public String getDataType() {
+        return dataType;
+    }
+
+    @Override
+    public int getInputSize() {
+        return inputSize;
+    }
+
+    @Override
+    public int getRun() {
+        return run;
+    }
+
+    @Override
+    public int getTotalRuns() {
+        return totalRuns;
+    }
+
+    @Override
+    public long getCompletedConfigurations() {
+        return completedConfigurations;
+    }
+
+    @Override
+    public double getElapsedSeconds() {
+        return (System.nanoTime() - startTime) / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,21 @@
+package metrics;
+
+/**
+ * JMX view of the configuration a benchmark run is currently measuring.
+ */
+public interface BenchmarkStatusMBean {
+
+    String getPhase();
+
+    String getDataType();
+
+    int getInputSize();
+
+    int getRun();
+
+    int getTotalRuns();
+
+    long getCompletedConfigurations();
+
+    double getElapsedSeconds();
+}
@@ -0,0 +1,116 @@
+package metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry aggregating tracker metrics per algorithm and
+ * exposing them as platform MBeans (visible in JConsole or via jcmd).
+ * Sorts report once when they finish, never from inside their loops.
+ * Set the system property {@code metrics.jmx.enabled=false} to turn
+ * recording off entirely.
+ */
+public class MetricsRegistry {
+
+    private static final String DOMAIN = "metrics";
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry(
+            Boolean.parseBoolean(System.getProperty("metrics.jmx.enabled", "true")));
+
+    private final Map<String, AlgorithmMetrics> algorithms = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Adds the metrics of a finished sort to the algorithm's aggregates.
+     *
+     * @param algorithm algorithm name, used as the MBean name
+     * @param inputSize number of elements sorted
+     * @param tracker tracker of the finished sort
+     */
+    public void record(String algorithm, int inputSize, PerformanceTracker tracker) {
+        if (!enabled) {
+            return;
+        }
+        AlgorithmMetrics metrics = algorithms.get(algorithm);
+        if (metrics == null) {
+            metrics = createMetrics(algorithm);
+        }
+        metrics.record(inputSize, tracker);
+    }
+
+    /**
+     * Gets aggregated metrics for an algorithm.
+     *
+     * @param algorithm algorithm name
+     * @return the metrics, or null if nothing was recorded yet
+     */
+    public AlgorithmMetrics getMetrics(String algorithm) {
+        return algorithms.get(algorithm);
+    }
+
+    public Collection<AlgorithmMetrics> getAllMetrics() {
+        return Collections.unmodifiableCollection(algorithms.values());
+    }
+
+    /**
+     * Exposes a benchmark's live status as an MBean, replacing any previous one.
+     *
+     * @param status the status to expose
+     */
+    public void registerBenchmark(BenchmarkStatus status) {
+        register("type=Benchmark", status);
+    }
+
+    /**
+     * Inserts metrics for a new algorithm, then registers the MBean outside
+     * the map so starting the platform MBean server never holds a map lock.
+     * Only the thread whose instance wins the insert registers it.
+     */
+    private AlgorithmMetrics createMetrics(String algorithm) {
+        AlgorithmMetrics created = new AlgorithmMetrics(algorithm);
+        AlgorithmMetrics existing = algorithms.putIfAbsent(algorithm, created);
+        if (existing != null) {
+            return existing;
+        }
+        register("type=Algorithm,name=" + ObjectName.quote(algorithm), created);
+        return created;
+    }
+
+    /**
+     * Registers an MBean with the platform server. Failures are reported
+     * but never propagate into the sort that triggered them.
+     */
+    private void register(String properties, Object mbean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mbean, name);
+        } catch (JMException | SecurityException e) {
+            System.err.println("Could not register MBean " + properties + ": " + e.getMessage());
+        }
+    }
+}
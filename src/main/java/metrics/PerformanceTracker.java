@@ -3,15 +3,23 @@ package metrics;
 /**
  * Tracks performance metrics for algorithm analysis.
  * Collects comparisons, swaps, array accesses, and execution time.
+ * Counters are updated without synchronization and should only be read by the
+ * sorting thread; progress (passes and sorted elements) is safe to read from
+ * any thread while a sort is running.
  */
 public class PerformanceTracker {
     private long comparisons;
     private long swaps;
     private long arrayAccesses;
     private long memoryAllocations;
+    private long comparatorInvocations;
     private long startTime;
     private long endTime;
     private boolean timerRunning;
+    private volatile long passesCompleted;
+    private volatile int sortedPrefix;
+    private volatile int sortedElements;
+    private volatile int totalElements;
 
     public PerformanceTracker() {
         reset();
@@ -25,9 +33,14 @@ public class PerformanceTracker {
         swaps = 0;
         arrayAccesses = 0;
         memoryAllocations = 0;
+        comparatorInvocations = 0;
         startTime = 0;
         endTime = 0;
         timerRunning = false;
+        passesCompleted = 0;
+        sortedPrefix = 0;
+        sortedElements = 0;
+        totalElements = -1; // No progress reported until beginProgress
     }
 
     /**
@@ -97,6 +110,37 @@ public class PerformanceTracker {
         memoryAllocations += count;
     }
 
+    public void incrementComparatorInvocations() {
+        comparatorInvocations++;
+    }
+
+    /**
+     * Starts progress reporting for a sort over the given number of elements.
+     */
+    public void beginProgress(int totalElements) {
+        this.passesCompleted = 0;
+        this.sortedPrefix = 0;
+        this.sortedElements = 0;
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * Publishes progress; intended to be called once per pass, not per element.
+     */
+    public void updateProgress(long passesCompleted, int sortedPrefix) {
+        updateProgress(passesCompleted, sortedPrefix, sortedPrefix);
+    }
+
+    /**
+     * Publishes progress when more elements are in final position than the
+     * prefix, e.g. a heap sort filling the array from the end.
+     */
+    public void updateProgress(long passesCompleted, int sortedPrefix, int sortedElements) {
+        this.passesCompleted = passesCompleted;
+        this.sortedPrefix = sortedPrefix;
+        this.sortedElements = sortedElements;
+    }
+
     // Getters
     public long getComparisons() {
         return comparisons;
@@ -114,6 +158,43 @@ public class PerformanceTracker {
         return memoryAllocations;
     }
 
+    /**
+     * Gets the number of user-supplied comparator calls.
+     * Primitive and key-extractor sorts leave this at zero.
+     */
+    public long getComparatorInvocations() {
+        return comparatorInvocations;
+    }
+
+    /**
+     * Gets the number of passes completed so far. Safe to call from any thread.
+     */
+    public long getPassesCompleted() {
+        return passesCompleted;
+    }
+
+    /**
+     * Gets the length of the prefix already in final position. Safe to call from any thread.
+     */
+    public int getSortedPrefix() {
+        return sortedPrefix;
+    }
+
+    /**
+     * Gets the fraction of elements already in final position, from 0.0 to 1.0.
+     * Sorts that do not report progress always read 0.0. Safe to call from any thread.
+     */
+    public double getFractionSorted() {
+        int total = totalElements;
+        if (total < 0) {
+            return 0.0;
+        }
+        if (total == 0) {
+            return 1.0;
+        }
+        return (double) sortedElements / total;
+    }
+
     /**
      * Exports metrics as CSV line.
      */
@@ -143,8 +224,10 @@ public class PerformanceTracker {
                         "  Swaps: %,d\n" +
                         "  Array Accesses: %,d\n" +
                         "  Memory Allocations: %,d\n" +
+                        "  Comparator Invocations: %,d\n" +
                         "  Execution Time: %.3f ms",
-                comparisons, swaps, arrayAccesses, memoryAllocations, getElapsedTimeMillis()
+                comparisons, swaps, arrayAccesses, memoryAllocations, comparatorInvocations,
+                getElapsedTimeMillis()
         );
     }
 }
@@ -0,0 +1,76 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sum over the last minute kept in one-second slots.
+ * Each slot sums into a striped adder, so concurrent writers in the same
+ * second do not contend. Shared state is only written when a slot rolls
+ * over to a new second and on the very first sample. Slots are recycled
+ * lazily; a racing rollover may drop a few samples, which is acceptable
+ * for monitoring.
+ */
+class RollingWindow {
+
+    private static final int SLOTS = 60;
+    private static final long SLOT_NANOS = 1_000_000_000L;
+
+    private final AtomicLongArray slotIds = new AtomicLongArray(SLOTS);
+    private final LongAdder[] slotSums = new LongAdder[SLOTS];
+    private final AtomicLong firstSlotId = new AtomicLong();
+
+    RollingWindow() {
+        for (int slot = 0; slot < SLOTS; slot++) {
+            slotSums[slot] = new LongAdder();
+        }
+        reset();
+    }
+
+    void add(long nowNanos, long amount) {
+        long id = nowNanos / SLOT_NANOS;
+        int slot = (int) Math.floorMod(id, (long) SLOTS);
+
+        // Plain read first so steady-state recording never writes shared state
+        if (firstSlotId.get() == Long.MIN_VALUE) {
+            firstSlotId.compareAndSet(Long.MIN_VALUE, id);
+        }
+
+        long current = slotIds.get(slot);
+        if (current != id && slotIds.compareAndSet(slot, current, id)) {
+            slotSums[slot].reset();
+        }
+        slotSums[slot].add(amount);
+    }
+
+    /**
+     * Average rate per second over the window, or over the seconds elapsed
+     * since the first sample when that is shorter than the window.
+     */
+    double ratePerSecond(long nowNanos) {
+        long id = nowNanos / SLOT_NANOS;
+        long first = firstSlotId.get();
+        if (first == Long.MIN_VALUE) {
+            return 0.0;
+        }
+        long coveredSeconds = Math.max(1, Math.min(SLOTS, id - first + 1));
+
+        long sum = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            long slotId = slotIds.get(slot);
+            if (slotId > id - SLOTS && slotId <= id) {
+                sum += slotSums[slot].sum();
+            }
+        }
+        return (double) sum / coveredSeconds;
+    }
+
+    void reset() {
+        firstSlotId.set(Long.MIN_VALUE);
+        for (int slot = 0; slot < SLOTS; slot++) {
+            slotIds.set(slot, Long.MIN_VALUE);
+            slotSums[slot].reset();
+        }
+    }
+}
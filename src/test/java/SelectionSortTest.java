@@ -5,7 +5,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import metrics.AlgorithmMetrics;
+import metrics.MetricsRegistry;
+import metrics.PerformanceTracker;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
 
 /**
@@ -211,4 +218,364 @@ class SelectionSortTest {
                     "SelectionSort output should match Arrays.sort");
         }
     }
+
+    @Test
+    @DisplayName("Test long array sort")
+    void testLongSort() {
+        long[] arr = {Long.MAX_VALUE, 3L, Long.MIN_VALUE, -7L, 3L};
+        sorter.sort(arr);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -7L, 3L, 3L, Long.MAX_VALUE}, arr);
+        assertTrue(SelectionSort.isSorted(arr));
+    }
+
+    @Test
+    @DisplayName("Test double sort orders -0.0 and NaN like Arrays.sort")
+    void testDoubleSortSpecialValues() {
+        double[] arr = {Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, -1.5,
+                Double.NEGATIVE_INFINITY, 0.0, -0.0};
+        double[] expected = Arrays.copyOf(arr, arr.length);
+        Arrays.sort(expected);
+
+        sorter.sort(arr);
+        assertArrayEquals(expected, arr);
+        assertTrue(SelectionSort.isSorted(arr));
+    }
+
+    @Test
+    @DisplayName("Test comparator sort counts comparator invocations")
+    void testComparatorSort() {
+        String[] arr = {"pear", "apple", "fig", "banana", "cherry"};
+        Comparator<String> byLength = Comparator.comparingInt(String::length)
+                .thenComparing(Comparator.naturalOrder());
+
+        sorter.sort(arr, byLength);
+        assertArrayEquals(new String[]{"fig", "pear", "apple", "banana", "cherry"}, arr);
+        assertTrue(SelectionSort.isSorted(arr, byLength));
+        assertEquals(sorter.getTracker().getComparisons(),
+                sorter.getTracker().getComparatorInvocations());
+        assertTrue(sorter.getTracker().getSwaps() <= arr.length - 1);
+    }
+
+    @Test
+    @DisplayName("Test key extractor sorts match comparator sort")
+    void testKeyExtractorSorts() {
+        Random rand = new Random(321);
+        Integer[] arr1 = new Integer[200];
+        for (int i = 0; i < arr1.length; i++) {
+            arr1[i] = rand.nextInt(1000) - 500;
+        }
+        Integer[] arr2 = Arrays.copyOf(arr1, arr1.length);
+        Integer[] expected = Arrays.copyOf(arr1, arr1.length);
+        Arrays.sort(expected);
+
+        sorter.sortByIntKey(arr1, Integer::intValue);
+        assertArrayEquals(expected, arr1);
+        assertEquals(0, sorter.getTracker().getComparatorInvocations());
+
+        sorter.sortByLongKey(arr2, Integer::longValue);
+        assertArrayEquals(expected, arr2);
+    }
+
+    @Test
+    @DisplayName("Test object swap counts the same accesses as int swap")
+    void testComparatorSwapAccesses() {
+        SelectionSort primitive = new SelectionSort();
+        primitive.sort(new int[]{2, 1});
+
+        sorter.sort(new Integer[]{2, 1}, Comparator.naturalOrder());
+
+        assertEquals(primitive.getTracker().getArrayAccesses(), sorter.getTracker().getArrayAccesses());
+    }
+
+    @Test
+    @DisplayName("Test null comparator throws exception")
+    void testNullComparator() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            sorter.sort(new String[]{"b", "a"}, null);
+        });
+    }
+
+    @Test
+    @DisplayName("Test blocked sort matches Arrays.sort")
+    void testBlockedSort() {
+        Random rand = new Random(456);
+
+        for (int blockSize : new int[]{1, 3, 16, 500}) {
+            int[] arr1 = new int[300];
+            for (int i = 0; i < arr1.length; i++) {
+                arr1[i] = rand.nextInt(50);
+            }
+            int[] arr2 = Arrays.copyOf(arr1, arr1.length);
+
+            sorter.sortBlocked(arr1, blockSize);
+            Arrays.sort(arr2);
+
+            assertArrayEquals(arr2, arr1);
+            assertTrue(sorter.getTracker().getSwaps() <= arr1.length,
+                    "Blocked sort should perform at most n swaps");
+        }
+    }
+
+    @Test
+    @DisplayName("Test blocked sort reduces passes over the array")
+    void testBlockedSortFewerAccesses() {
+        Random rand = new Random(654);
+        int[] arr1 = new int[2000];
+        for (int i = 0; i < arr1.length; i++) {
+            arr1[i] = rand.nextInt(100000);
+        }
+        int[] arr2 = Arrays.copyOf(arr1, arr1.length);
+
+        SelectionSort blocked = new SelectionSort();
+        blocked.sortBlocked(arr1);
+        sorter.sort(arr2);
+
+        assertArrayEquals(arr2, arr1);
+        assertTrue(blocked.getTracker().getArrayAccesses() < sorter.getTracker().getArrayAccesses());
+    }
+
+    @Test
+    @DisplayName("Test blocked sort rejects non-positive block size")
+    void testBlockedSortInvalidBlockSize() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            sorter.sortBlocked(new int[]{2, 1}, 0);
+        });
+    }
+
+    @Test
+    @DisplayName("Test duplicate-aware sort needs one pass per distinct value")
+    void testDuplicateAwareSort() {
+        Random rand = new Random(987);
+        int[] arr1 = new int[1000];
+        for (int i = 0; i < arr1.length; i++) {
+            arr1[i] = rand.nextInt(10);
+        }
+        int[] arr2 = Arrays.copyOf(arr1, arr1.length);
+        Arrays.sort(arr2);
+
+        sorter.sortDuplicateAware(arr1);
+
+        assertArrayEquals(arr2, arr1);
+        // At most 10 passes: a scan of two comparisons per element plus a gather
+        assertTrue(sorter.getTracker().getComparisons() <= 30L * arr1.length);
+    }
+
+    @Test
+    @DisplayName("Test duplicate-aware sort keeps swaps at most n on reverse-sorted input")
+    void testDuplicateAwareReverseSortedSwaps() {
+        int[] arr = new int[2000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = arr.length - i;
+        }
+
+        sorter.sortDuplicateAware(arr);
+
+        assertTrue(SelectionSort.isSorted(arr));
+        assertTrue(sorter.getTracker().getSwaps() <= arr.length,
+                "Duplicate-aware sort should perform at most n swaps");
+    }
+
+    @Test
+    @DisplayName("Test adaptive sort uses counting sort for few unique values")
+    void testAdaptiveSortCounting() {
+        Random rand = new Random(111);
+        int[] arr1 = new int[1000];
+        for (int i = 0; i < arr1.length; i++) {
+            arr1[i] = rand.nextInt(10) - 5;
+        }
+        int[] arr2 = Arrays.copyOf(arr1, arr1.length);
+        Arrays.sort(arr2);
+
+        sorter.sortAdaptive(arr1);
+
+        assertArrayEquals(arr2, arr1);
+        assertEquals(0, sorter.getTracker().getSwaps());
+        // Cardinality sample buffer and counting array
+        assertEquals(2, sorter.getTracker().getMemoryAllocations());
+        assertTrue(sorter.getTracker().getComparisons() > 0,
+                "Should record sampling and min/max comparisons");
+    }
+
+    @Test
+    @DisplayName("Test adaptive sort with few unique values spread over a wide range")
+    void testAdaptiveSortWideRange() {
+        int[] arr = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, Integer.MIN_VALUE, 0};
+        sorter.sortAdaptive(arr);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE, 0, 0,
+                Integer.MAX_VALUE, Integer.MAX_VALUE}, arr);
+        // Only the cardinality sample buffer, no counting array
+        assertEquals(1, sorter.getTracker().getMemoryAllocations());
+    }
+
+    @Test
+    @DisplayName("Test adaptive sort skips counting sort when range is large relative to n")
+    void testAdaptiveSortRangeRelativeToSize() {
+        int[] arr = {65535, 0};
+        sorter.sortAdaptive(arr);
+        assertArrayEquals(new int[]{0, 65535}, arr);
+        // Only the cardinality sample buffer, no 64K-entry counting array
+        assertEquals(1, sorter.getTracker().getMemoryAllocations());
+    }
+
+    @Test
+    @DisplayName("Test adaptive sort on high-cardinality data")
+    void testAdaptiveSortHighCardinality() {
+        Random rand = new Random(222);
+        int[] arr1 = new int[500];
+        for (int i = 0; i < arr1.length; i++) {
+            arr1[i] = rand.nextInt(1_000_000);
+        }
+        int[] arr2 = Arrays.copyOf(arr1, arr1.length);
+        Arrays.sort(arr2);
+
+        sorter.sortAdaptive(arr1);
+        assertArrayEquals(arr2, arr1);
+    }
+
+    @Test
+    @DisplayName("Test budgeted sort completes within a generous budget")
+    void testBudgetCompleted() {
+        int[] arr = {5, 2, 8, 1, 9, 3, 7, 4, 6};
+        SelectionSort.BudgetOutcome outcome = sorter.sortWithBudget(arr, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        assertEquals(SelectionSort.BudgetOutcome.COMPLETED, outcome);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, arr);
+        assertEquals(1.0, sorter.getTracker().getFractionSorted());
+    }
+
+    @Test
+    @DisplayName("Test budgeted sort falls back when comparisons would exceed budget")
+    void testBudgetFallback() {
+        Random rand = new Random(333);
+        int[] arr1 = new int[1000];
+        for (int i = 0; i < arr1.length; i++) {
+            arr1[i] = rand.nextInt(10000);
+        }
+        int[] arr2 = Arrays.copyOf(arr1, arr1.length);
+        Arrays.sort(arr2);
+
+        SelectionSort.BudgetOutcome outcome = sorter.sortWithBudget(arr1, Long.MAX_VALUE, 100_000);
+
+        assertEquals(SelectionSort.BudgetOutcome.FALLBACK, outcome);
+        assertArrayEquals(arr2, arr1);
+        assertTrue(sorter.getTracker().getPassesCompleted() > 0,
+                "Should run selection passes before falling back");
+        assertTrue(sorter.getTracker().getComparisons() <= 100_000,
+                "Should reserve room for the fallback within the comparison budget");
+    }
+
+    @Test
+    @DisplayName("Test budgeted sort falls back when projected time exceeds budget")
+    void testBudgetTimeProjection() {
+        Random rand = new Random(444);
+        int[] arr1 = new int[20000];
+        for (int i = 0; i < arr1.length; i++) {
+            arr1[i] = rand.nextInt();
+        }
+        int[] arr2 = Arrays.copyOf(arr1, arr1.length);
+        Arrays.sort(arr2);
+
+        // Full selection sort would need 200M comparisons, far beyond 5 ms
+        SelectionSort.BudgetOutcome outcome = sorter.sortWithBudget(arr1, 5_000_000L, Long.MAX_VALUE);
+
+        assertEquals(SelectionSort.BudgetOutcome.FALLBACK, outcome);
+        assertArrayEquals(arr2, arr1);
+        assertEquals(1.0, sorter.getTracker().getFractionSorted());
+    }
+
+    @Test
+    @DisplayName("Test progress is readable and sort is cancellable from another thread")
+    void testBudgetProgressAndCancellationFromAnotherThread() throws Exception {
+        Random rand = new Random(555);
+        int[] arr = new int[100000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = rand.nextInt();
+        }
+        PerformanceTracker tracker = sorter.getTracker();
+        SelectionSort.BudgetOutcome[] outcome = new SelectionSort.BudgetOutcome[1];
+
+        Thread worker = new Thread(() ->
+                outcome[0] = sorter.sortWithBudget(arr, Long.MAX_VALUE, Long.MAX_VALUE));
+        worker.start();
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (tracker.getPassesCompleted() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(tracker.getPassesCompleted() >= 10, "Passes should be visible while sorting");
+        double fraction = tracker.getFractionSorted();
+        assertTrue(fraction > 0.0 && fraction < 1.0, "Fraction should reflect partial progress");
+
+        worker.interrupt();
+        worker.join(10_000);
+
+        assertFalse(worker.isAlive(), "Worker should stop after interruption");
+        assertEquals(SelectionSort.BudgetOutcome.CANCELLED, outcome[0]);
+
+        int prefix = tracker.getSortedPrefix();
+        assertTrue(prefix >= 10);
+        assertTrue(SelectionSort.isSorted(Arrays.copyOf(arr, prefix)), "Sorted prefix should be preserved");
+        for (int i = prefix; i < arr.length; i++) {
+            assertTrue(arr[prefix - 1] <= arr[i], "Prefix should hold the smallest elements");
+        }
+    }
+
+    @Test
+    @DisplayName("Test sorts without progress reporting read as not started")
+    void testFractionSortedWithoutProgress() {
+        assertEquals(0.0, sorter.getTracker().getFractionSorted());
+        sorter.sort(new int[]{3, 1, 2});
+        assertEquals(0.0, sorter.getTracker().getFractionSorted());
+    }
+
+    @Test
+    @DisplayName("Test budgeted sort stops when the thread is interrupted")
+    void testBudgetCancelled() {
+        int[] arr = {3, 2, 1};
+        Thread.currentThread().interrupt();
+        try {
+            SelectionSort.BudgetOutcome outcome = sorter.sortWithBudget(arr, Long.MAX_VALUE, Long.MAX_VALUE);
+            assertEquals(SelectionSort.BudgetOutcome.CANCELLED, outcome);
+            assertTrue(Thread.currentThread().isInterrupted(), "Interrupt status should be preserved");
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @DisplayName("Test finished sorts are aggregated and exposed over JMX")
+    void testMetricsRegistry() throws Exception {
+        sorter.sortBidirectional(new int[]{5, 2, 8, 1, 9});
+        AlgorithmMetrics metrics = MetricsRegistry.getInstance().getMetrics("Bidirectional");
+        long before = metrics.getInvocations();
+
+        sorter.sortBidirectional(new int[]{3, 1, 2});
+
+        assertEquals(before + 1, metrics.getInvocations());
+        assertTrue(metrics.getTotalComparisons() > 0);
+        assertTrue(metrics.getThroughputSortsPerSecond() > 0);
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(
+                new ObjectName("metrics:type=Algorithm,name=\"Bidirectional\"")));
+    }
+
+    @Test
+    @DisplayName("Test adaptive sort reports high-cardinality input as Adaptive")
+    void testAdaptiveMetricsAttribution() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        sorter.sort(new int[]{2, 1});
+        sorter.sortAdaptive(new int[]{2, 1});
+        long standardBefore = registry.getMetrics("Standard").getInvocations();
+        long adaptiveBefore = registry.getMetrics("Adaptive").getInvocations();
+
+        Random rand = new Random(666);
+        int[] arr = new int[500];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = rand.nextInt(1_000_000);
+        }
+        sorter.sortAdaptive(arr);
+
+        assertTrue(SelectionSort.isSorted(arr));
+        assertEquals(standardBefore, registry.getMetrics("Standard").getInvocations());
+        assertEquals(adaptiveBefore + 1, registry.getMetrics("Adaptive").getInvocations());
+    }
 }